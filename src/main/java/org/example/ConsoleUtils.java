@@ -1,5 +1,6 @@
 package org.example;
 
+import java.io.Console;
 import java.util.List;
 import java.util.Scanner;
 
@@ -50,6 +51,17 @@ public class ConsoleUtils {
         return userInput;
     }
 
+    public static String getPasswordInput(String mensaje) {
+        Console console = System.console();
+        if (console != null) {
+            char[] password = console.readPassword(mensaje);
+            return password == null ? "" : new String(password);
+        }
+        System.out.print(mensaje);
+        Scanner input = new Scanner(System.in);
+        return input.hasNextLine() ? input.nextLine() : "";
+    }
+
     public static int getNonNegativeIntInput(String mensaje) {
         Scanner scanner = new Scanner(System.in);
         int userInput;
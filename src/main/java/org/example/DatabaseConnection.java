@@ -9,6 +9,7 @@ public class DatabaseConnection {
     private final String dbUrl;
     private final String user;
     private final String pass;
+    private volatile boolean quiet;
 
     private DatabaseConnection(String dbUrl, String user, String pass) {
         this.dbUrl = dbUrl;
@@ -23,10 +24,20 @@ public class DatabaseConnection {
         return instance;
     }
 
+    public static DatabaseConnection create(String dbUrl, String user, String pass) {
+        return new DatabaseConnection(dbUrl, user, pass);
+    }
+
+    public void setQuiet(boolean quiet) {
+        this.quiet = quiet;
+    }
+
     public Connection getConnection() throws SQLException {
         Connection con = DriverManager.getConnection(dbUrl, user, pass);
         con.setAutoCommit(false);
-        System.out.println("Conexión exitosa");
+        if (!quiet) {
+            System.out.println("Conexión exitosa");
+        }
         return con;
     }
 }
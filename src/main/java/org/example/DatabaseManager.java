@@ -5,71 +5,208 @@ import java.text.ParseException;
 import java.text.SimpleDateFormat;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.locks.ReentrantLock;
 
 public class DatabaseManager {
+    private static final String QUERY_CANCELED_STATE = "57014";
+    private static final int DEFAULT_TIMEOUT_SECONDS = 30;
+    private static final int MAX_BIND_PARAMETERS = 65535;
+
     private final Connection conexion;
     private final ReentrantLock lock = new ReentrantLock();
+    private final Map<DatabaseOperation, Integer> operationTimeouts = new ConcurrentHashMap<>();
+    private volatile int defaultTimeoutSeconds = DEFAULT_TIMEOUT_SECONDS;
+    private final AtomicLong operationSequence = new AtomicLong();
+    private volatile RunningOperation currentOperation;
+    private volatile long cancelledOperationId;
+    private volatile boolean quiet;
+    private long deadlineNanos;
 
     public DatabaseManager(Connection conexion) {
         this.conexion = conexion;
     }
 
+    public void setQuiet(boolean quiet) {
+        this.quiet = quiet;
+    }
+
+    private void log(String message) {
+        if (!quiet) {
+            System.out.println(message);
+        }
+    }
+
+    public void setDefaultTimeout(int seconds) {
+        if (seconds < 0) {
+            throw new IllegalArgumentException("El tiempo límite no puede ser negativo: " + seconds);
+        }
+        defaultTimeoutSeconds = seconds;
+    }
+
+    public void setOperationTimeout(DatabaseOperation operation, int seconds) {
+        if (operation == null) {
+            throw new IllegalArgumentException("Debe indicar una operación.");
+        }
+        if (seconds < 0) {
+            throw new IllegalArgumentException("El tiempo límite no puede ser negativo: " + seconds);
+        }
+        operationTimeouts.put(operation, seconds);
+    }
+
+    public int getOperationTimeout(DatabaseOperation operation) {
+        return operationTimeouts.getOrDefault(operation, defaultTimeoutSeconds);
+    }
+
+    public <T> T runInOperation(DatabaseOperation operation, DatabaseCall<T> call) throws DatabaseException {
+        acquireLock(operation);
+        try {
+            return call.call();
+        } finally {
+            releaseLock();
+        }
+    }
+
+    public boolean cancelCurrentQuery() throws DatabaseException {
+        RunningOperation operation = currentOperation;
+        if (operation == null) {
+            return false;
+        }
+        cancelledOperationId = operation.id();
+        if (operation.statement() == null) {
+            return true;
+        }
+        try {
+            operation.statement().cancel();
+            return true;
+        } catch (SQLException errSql) {
+            throw new DatabaseException("Error SQL al intentar cancelar la consulta: " + errSql.getMessage(), errSql);
+        }
+    }
+
+    private void acquireLock(DatabaseOperation operation) throws DatabaseException {
+        if (lock.isHeldByCurrentThread()) {
+            lock.lock();
+            return;
+        }
+        int timeout = getOperationTimeout(operation);
+        long start = System.nanoTime();
+        try {
+            if (timeout == 0) {
+                lock.lockInterruptibly();
+            } else if (!lock.tryLock(timeout, TimeUnit.SECONDS)) {
+                throw new DatabaseException("La operación " + operation + " no pudo iniciarse: la conexión sigue ocupada tras " + timeout + " s.");
+            }
+        } catch (InterruptedException errInt) {
+            Thread.currentThread().interrupt();
+            throw new DatabaseException("La operación " + operation + " fue interrumpida mientras esperaba la conexión.", errInt);
+        }
+        deadlineNanos = timeout == 0 ? 0 : start + TimeUnit.SECONDS.toNanos(timeout);
+        currentOperation = new RunningOperation(operationSequence.incrementAndGet(), null);
+    }
+
+    private void releaseLock() {
+        if (lock.getHoldCount() == 1) {
+            deadlineNanos = 0;
+            currentOperation = null;
+        }
+        lock.unlock();
+    }
+
+    private <T extends Statement> T track(T statement) throws SQLException {
+        RunningOperation operation = currentOperation;
+        if (operation.id() == cancelledOperationId) {
+            statement.close();
+            throw new SQLTimeoutException("La operación fue cancelada.", QUERY_CANCELED_STATE);
+        }
+        if (deadlineNanos != 0) {
+            long remaining = deadlineNanos - System.nanoTime();
+            if (remaining <= 0) {
+                statement.close();
+                throw new SQLTimeoutException("Se agotó el tiempo límite de la operación.", QUERY_CANCELED_STATE);
+            }
+            statement.setQueryTimeout((int) TimeUnit.NANOSECONDS.toSeconds(remaining + TimeUnit.SECONDS.toNanos(1) - 1));
+        }
+        currentOperation = new RunningOperation(operation.id(), statement);
+        return statement;
+    }
+
+    private DatabaseException buildSqlException(String message, SQLException errSql) {
+        if (QUERY_CANCELED_STATE.equals(errSql.getSQLState())) {
+            return new DatabaseException("La consulta fue cancelada o superó su tiempo límite. " + errSql.getMessage(), errSql);
+        }
+        return new DatabaseException(message + errSql.getMessage(), errSql);
+    }
+
     public List<String> getSchemas() throws DatabaseException {
-        lock.lock();
+        acquireLock(DatabaseOperation.GET_SCHEMAS);
+        RunningOperation previous = currentOperation;
         List<String> listaEsquemas = new ArrayList<>();
         String query = "SELECT nspname AS schema_name " +
                 "FROM pg_catalog.pg_namespace " +
                 "WHERE nspname <> 'pg_toast' AND nspname !~ '^pg_' " +
                 "AND nspname <> 'information_schema';";
-        try (Statement statement = conexion.createStatement();
+        try (Statement statement = track(conexion.createStatement());
              ResultSet resultSet = statement.executeQuery(query)) {
-            System.out.println("Listado de esquemas en la base de datos:");
+            log("Listado de esquemas en la base de datos:");
             while (resultSet.next()) {
                 String tableName = resultSet.getString("schema_name");
                 listaEsquemas.add(tableName);
             }
         } catch (SQLException errSql) {
-            throw new DatabaseException("Error SQL al intentar obtener los registros: " + errSql.getMessage(), errSql);
+            rollbackOnSQLException();
+            throw buildSqlException("Error SQL al intentar obtener los registros: ", errSql);
         } finally {
-            lock.unlock();
+            currentOperation = previous;
+            releaseLock();
         }
         return listaEsquemas;
     }
 
     public List<Record> selectAll(String schemaName, String tableName) throws DatabaseException {
-        lock.lock();
+        acquireLock(DatabaseOperation.SELECT_ALL);
+        RunningOperation previous = currentOperation;
         String query = "SELECT * FROM " + schemaName + "." + tableName;
         List<Record> records;
-        try (Statement statement = conexion.createStatement();
+        try (Statement statement = track(conexion.createStatement());
              ResultSet resultSet = statement.executeQuery(query)) {
             records = buildRecordsFromResultSet(schemaName, tableName, resultSet);
         } catch (SQLException errSql) {
-            throw new DatabaseException("Error SQL al intentar obtener los registros: " + errSql.getMessage(), errSql);
+            rollbackOnSQLException();
+            throw buildSqlException("Error SQL al intentar obtener los registros: ", errSql);
+        } finally {
+            currentOperation = previous;
+            releaseLock();
         }
-        lock.unlock();
         return records;
     }
 
     private List<Record> buildRecordsFromResultSet(String schemaName, String tableName, ResultSet resultSet) throws SQLException, DatabaseException {
         List<String> columnNames = getColumnsNames(schemaName, tableName);
+        List<String> columnTypes = getColumnsTypes(schemaName, tableName);
         List<Record> records = new ArrayList<>();
         while (resultSet.next()) {
             Record record = new Record();
-            for (String columnName : columnNames) {
-                String columnType = getColumnType(schemaName, tableName, columnName);
-                record.addColumnValue(columnName, resultSet.getString(columnName), columnType);
+            for (int i = 0; i < columnNames.size(); i++) {
+                String columnName = columnNames.get(i);
+                record.addColumnValue(columnName, resultSet.getString(columnName), columnTypes.get(i));
             }
             records.add(record);
         }
         return records;
     }
 
-    public void insertRecord(String schemaName, String tableName, Record record) throws DatabaseException {
-        lock.lock();
+    public int insertRecord(String schemaName, String tableName, Record record) throws DatabaseException {
+        acquireLock(DatabaseOperation.INSERT_RECORD);
+        RunningOperation previous = currentOperation;
         String query = getInsertQuery(schemaName, tableName, record);
-        try (PreparedStatement statement = conexion.prepareStatement(query)) {
+        try (PreparedStatement statement = track(conexion.prepareStatement(query))) {
             int i = 0;
             for (String columnName : record.getColumnNames()) {
                 setParameterValue(statement, i + 1, record.getDataType(columnName), record.getValue(columnName));
@@ -77,16 +214,18 @@ public class DatabaseManager {
             }
             int rowsAffected = statement.executeUpdate();
             conexion.commit();
-            System.out.println(rowsAffected + " fila(s) insertada(s).");
+            log(rowsAffected + " fila(s) insertada(s).");
+            return rowsAffected;
         } catch (SQLException errSql) {
             rollbackOnSQLException();
-            throw new DatabaseException("Error SQL al intentar agregar un registro. " + errSql.getMessage(), errSql);
+            throw buildSqlException("Error SQL al intentar agregar un registro. ", errSql);
         } catch (ParseException errPar) {
             throw new DatabaseException("Error Parse al intentar persear un valor de la columna. " + errPar.getMessage(), errPar);
         } catch (IllegalArgumentException errIll){
             throw new DatabaseException("Error IllegalArgument al reconoce el tipo de dato. " + errIll.getMessage(), errIll);
         } finally {
-            lock.unlock();
+            currentOperation = previous;
+            releaseLock();
         }
     }
 
@@ -104,6 +243,110 @@ public class DatabaseManager {
         }
     }
 
+    public UpsertResult upsertRecords(String schemaName, String tableName, List<Record> records, int batchSize) throws DatabaseException {
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException("El tamaño de lote debe ser mayor que cero: " + batchSize);
+        }
+        UpsertResult result = new UpsertResult();
+        if (records.isEmpty()) {
+            return result;
+        }
+        List<String> columnNames = records.get(0).getColumnNames();
+        for (Record record : records) {
+            if (!record.getColumnNames().equals(columnNames)) {
+                throw new DatabaseException("Todos los registros deben tener las columnas " + columnNames + ".");
+            }
+        }
+        List<String> keyColumns = getUpsertKeyColumns(schemaName, tableName, columnNames);
+        int effectiveBatchSize = Math.min(batchSize, MAX_BIND_PARAMETERS / columnNames.size());
+
+        acquireLock(DatabaseOperation.UPSERT_RECORDS);
+        RunningOperation previous = currentOperation;
+        try {
+            for (int from = 0; from < records.size(); from += effectiveBatchSize) {
+                List<Record> batch = deduplicateByKey(records.subList(from, Math.min(from + effectiveBatchSize, records.size())), keyColumns);
+                String query = getUpsertQuery(schemaName, tableName, columnNames, keyColumns, batch.size());
+                try (PreparedStatement statement = track(conexion.prepareStatement(query))) {
+                    int index = 1;
+                    for (Record record : batch) {
+                        for (String columnName : columnNames) {
+                            setParameterValue(statement, index++, record.getDataType(columnName), record.getValue(columnName));
+                        }
+                    }
+                    try (ResultSet resultSet = statement.executeQuery()) {
+                        while (resultSet.next()) {
+                            if (resultSet.getBoolean("inserted")) {
+                                result.addInserted();
+                            } else {
+                                result.addUpdated();
+                            }
+                        }
+                    }
+                }
+            }
+            result.setSkipped(records.size() - result.getInserted() - result.getUpdated());
+            conexion.commit();
+            log(result + ".");
+        } catch (SQLException errSql) {
+            rollbackOnSQLException();
+            throw buildSqlException("Error SQL al intentar hacer upsert de los registros: ", errSql);
+        } catch (ParseException errPar) {
+            rollbackOnSQLException();
+            throw new DatabaseException("Error Parse al intentar persear un valor de la columna. " + errPar.getMessage(), errPar);
+        } catch (IllegalArgumentException errIll) {
+            rollbackOnSQLException();
+            throw new DatabaseException("Error IllegalArgument al reconoce el tipo de dato. " + errIll.getMessage(), errIll);
+        } finally {
+            currentOperation = previous;
+            releaseLock();
+        }
+        return result;
+    }
+
+    private List<String> getUpsertKeyColumns(String schemaName, String tableName, List<String> columnNames) throws DatabaseException {
+        List<List<String>> constraints = getKeyConstraints(schemaName, tableName, "PRIMARY KEY", "UNIQUE");
+        if (constraints.isEmpty()) {
+            throw new DatabaseException("La tabla '" + tableName + "' no tiene una clave primaria o única para el upsert.");
+        }
+        for (List<String> keyColumns : constraints) {
+            if (columnNames.containsAll(keyColumns)) {
+                return keyColumns;
+            }
+        }
+        throw new DatabaseException("Los registros deben incluir todas las columnas de alguna de las claves " + constraints + ".");
+    }
+
+    private List<Record> deduplicateByKey(List<Record> batch, List<String> keyColumns) {
+        Map<List<String>, Record> recordsByKey = new LinkedHashMap<>();
+        for (Record record : batch) {
+            List<String> key = new ArrayList<>();
+            for (String keyColumn : keyColumns) {
+                key.add(record.getValue(keyColumn));
+            }
+            recordsByKey.put(key, record);
+        }
+        return new ArrayList<>(recordsByKey.values());
+    }
+
+    private String getUpsertQuery(String schemaName, String tableName, List<String> columnNames, List<String> keyColumns, int rowCount) {
+        String row = "(" + String.join(", ", Collections.nCopies(columnNames.size(), "?")) + ")";
+        StringBuilder queryBuilder = new StringBuilder("INSERT INTO ").append(schemaName).append(".").append(tableName)
+                .append(" (").append(String.join(", ", columnNames)).append(") VALUES ")
+                .append(String.join(", ", Collections.nCopies(rowCount, row)))
+                .append(" ON CONFLICT (").append(String.join(", ", keyColumns)).append(")");
+        List<String> updateColumns = columnNames.stream().filter(column -> !keyColumns.contains(column)).toList();
+        if (updateColumns.isEmpty()) {
+            queryBuilder.append(" DO NOTHING");
+        } else {
+            queryBuilder.append(" DO UPDATE SET ");
+            for (int i = 0; i < updateColumns.size(); i++) {
+                String separator = (i == 0) ? "" : ", ";
+                queryBuilder.append(separator).append(updateColumns.get(i)).append(" = EXCLUDED.").append(updateColumns.get(i));
+            }
+        }
+        return queryBuilder.append(" RETURNING (xmax = 0) AS inserted").toString();
+    }
+
     private String getInsertQuery(String schemaName, String tableName, Record record) {
         List<String> columnNames = record.getColumnNames();
         String columns = String.join(", ", columnNames);
@@ -111,11 +354,12 @@ public class DatabaseManager {
         return String.format("INSERT INTO %s.%s (%s) VALUES (%s)", schemaName, tableName, columns, values);
     }
 
-    public void deleteRecord(String schemaName, String tableName, Record whereRecord) throws DatabaseException {
-        lock.lock();
+    public int deleteRecord(String schemaName, String tableName, Record whereRecord) throws DatabaseException {
+        acquireLock(DatabaseOperation.DELETE_RECORD);
+        RunningOperation previous = currentOperation;
         List<String> whereColumns = whereRecord.getColumnNames();
         String query = getDeleteQuery(schemaName, tableName, whereRecord);
-        try (PreparedStatement statement = conexion.prepareStatement(query)) {
+        try (PreparedStatement statement = track(conexion.prepareStatement(query))) {
             for (String columnName : whereColumns) {
                 setParameterValue(statement,
                         whereColumns.indexOf(columnName) + 1,
@@ -124,16 +368,18 @@ public class DatabaseManager {
             }
             int rowsAffected = statement.executeUpdate();
             conexion.commit();
-            System.out.println(rowsAffected + " fila(s) eliminada(s).");
+            log(rowsAffected + " fila(s) eliminada(s).");
+            return rowsAffected;
         } catch (SQLException errSql) {
             rollbackOnSQLException();
-            throw new DatabaseException("Error SQL al intentar eliminar un registro: " + errSql.getMessage(), errSql);
+            throw buildSqlException("Error SQL al intentar eliminar un registro: ", errSql);
         } catch (ParseException errPar) {
             throw new DatabaseException("Error Parse al intentar persear un valor de la columna" + errPar.getMessage(), errPar);
         } catch (IllegalArgumentException errIll){
             throw new DatabaseException("Error IllegalArgument al reconoce el tipo de dato" + errIll.getMessage(), errIll);
         } finally {
-            lock.unlock();
+            currentOperation = previous;
+            releaseLock();
         }
     }
 
@@ -160,11 +406,12 @@ public class DatabaseManager {
         return queryBuilder.toString();
     }
 
-    public void updateRecord(String schemaName, String tableName, String columnName, String newValue, Record whereRecord) throws DatabaseException {
-        lock.lock();
+    public int updateRecord(String schemaName, String tableName, String columnName, String newValue, Record whereRecord) throws DatabaseException {
+        acquireLock(DatabaseOperation.UPDATE_RECORD);
+        RunningOperation previous = currentOperation;
         List<String> whereColumns = whereRecord.getColumnNames();
         String query = getUpdateQuery(schemaName, tableName, columnName, whereRecord);
-        try (PreparedStatement statement = conexion.prepareStatement(query)) {
+        try (PreparedStatement statement = track(conexion.prepareStatement(query))) {
             String columnType = getColumnType(schemaName, tableName, columnName);
             setParameterValue(statement, 1, columnType, newValue);
             for (String whereColumn : whereColumns) {
@@ -175,15 +422,18 @@ public class DatabaseManager {
             }
             int rowsAffected = statement.executeUpdate();
             conexion.commit();
-            System.out.println(rowsAffected + " fila(s) actualizada(s).");
+            log(rowsAffected + " fila(s) actualizada(s).");
+            return rowsAffected;
         } catch (SQLException errSql) {
-            throw new DatabaseException("Error SQL al intentar modificar un registro: " + errSql.getMessage(), errSql);
+            rollbackOnSQLException();
+            throw buildSqlException("Error SQL al intentar modificar un registro: ", errSql);
         } catch (ParseException errPar) {
             throw new DatabaseException("Error Parse al intentar persear un valor de la columna" + errPar.getMessage(), errPar);
         } catch (IllegalArgumentException errIll){
             throw new DatabaseException("Error IllegalArgument al reconoce el tipo de dato" + errIll.getMessage(), errIll);
         } finally {
-            lock.unlock();
+            currentOperation = previous;
+            releaseLock();
         }
     }
 
@@ -198,31 +448,38 @@ public class DatabaseManager {
     }
 
     public List<String> getTables(String schemaName) throws DatabaseException {
+        acquireLock(DatabaseOperation.GET_TABLES);
+        RunningOperation previous = currentOperation;
         List<String> tableNames = new ArrayList<>();
         String query = "SELECT table_name " +
                 "FROM information_schema.tables " +
                 "WHERE table_schema = '" + schemaName + "' " +
                 "AND table_type = 'BASE TABLE';";
-        try (Statement statement = conexion.createStatement();
+        try (Statement statement = track(conexion.createStatement());
              ResultSet resultSet = statement.executeQuery(query)) {
             while (resultSet.next()) {
                 String tableName = resultSet.getString(1);
                 tableNames.add(tableName);
             }
         } catch (SQLException errSql) {
-            throw new DatabaseException("Error SQL al intentar obtener las tablas: " + errSql.getMessage(), errSql);
+            rollbackOnSQLException();
+            throw buildSqlException("Error SQL al intentar obtener las tablas: ", errSql);
+        } finally {
+            currentOperation = previous;
+            releaseLock();
         }
         return tableNames;
     }
 
     private List<String> getColumnMetadata(String schemaName, String tableName, String columnName) throws DatabaseException {
-        lock.lock();
+        acquireLock(DatabaseOperation.COLUMN_METADATA);
+        RunningOperation previous = currentOperation;
         List<String> metadataList = new ArrayList<>();
         String query = "SELECT " + columnName +
                 " FROM information_schema.columns " +
                 " WHERE table_schema = ? AND table_name = ?";
 
-        try (PreparedStatement statement = conexion.prepareStatement(query)) {
+        try (PreparedStatement statement = track(conexion.prepareStatement(query))) {
             statement.setString(1, schemaName);
             statement.setString(2, tableName);
 
@@ -233,9 +490,11 @@ public class DatabaseManager {
                 }
             }
         } catch (SQLException errSql) {
-            throw new DatabaseException("Error SQL al intentar obtener " + columnName + ": " + errSql.getMessage(), errSql);
+            rollbackOnSQLException();
+            throw buildSqlException("Error SQL al intentar obtener " + columnName + ": ", errSql);
         } finally {
-            lock.unlock();
+            currentOperation = previous;
+            releaseLock();
         }
         return metadataList;
     }
@@ -249,22 +508,175 @@ public class DatabaseManager {
     }
 
     public List<String> getColumnValues(String schemaName, String tableName, String columnName) throws DatabaseException {
-        lock.lock();
+        acquireLock(DatabaseOperation.GET_COLUMN_VALUES);
+        RunningOperation previous = currentOperation;
         String query = "SELECT " + columnName + " FROM " + schemaName + "." + tableName;
         List<String> values = new ArrayList<>();
-        try (Statement statement = conexion.createStatement();
+        try (Statement statement = track(conexion.createStatement());
              ResultSet resultSet = statement.executeQuery(query)) {
             while (resultSet.next()) {
                 values.add(resultSet.getString(columnName));
             }
         } catch (SQLException errSql) {
-            throw new DatabaseException("Error SQL al intentar obtener los valores de una columna: " + errSql.getMessage(), errSql);
+            rollbackOnSQLException();
+            throw buildSqlException("Error SQL al intentar obtener los valores de una columna: ", errSql);
         } finally {
-            lock.unlock();
+            currentOperation = previous;
+            releaseLock();
         }
         return values;
     }
 
+    public List<String> getPrimaryKeyColumns(String schemaName, String tableName) throws DatabaseException {
+        List<List<String>> constraints = getKeyConstraints(schemaName, tableName, "PRIMARY KEY");
+        return constraints.isEmpty() ? new ArrayList<>() : constraints.get(0);
+    }
+
+    public List<List<String>> getKeyConstraints(String schemaName, String tableName, String... constraintTypes) throws DatabaseException {
+        acquireLock(DatabaseOperation.KEY_COLUMNS);
+        RunningOperation previous = currentOperation;
+        Map<String, List<String>> constraints = new LinkedHashMap<>();
+        String query = "SELECT tc.constraint_name, kcu.column_name " +
+                "FROM information_schema.table_constraints tc " +
+                "JOIN information_schema.key_column_usage kcu " +
+                "ON tc.constraint_name = kcu.constraint_name AND tc.table_schema = kcu.table_schema " +
+                "WHERE tc.table_schema = ? AND tc.table_name = ? AND tc.constraint_type = ANY(?) " +
+                "ORDER BY tc.constraint_type = 'PRIMARY KEY' DESC, tc.constraint_name, kcu.ordinal_position";
+        try (PreparedStatement statement = track(conexion.prepareStatement(query))) {
+            statement.setString(1, schemaName);
+            statement.setString(2, tableName);
+            statement.setArray(3, conexion.createArrayOf("varchar", constraintTypes));
+            try (ResultSet resultSet = statement.executeQuery()) {
+                while (resultSet.next()) {
+                    constraints.computeIfAbsent(resultSet.getString("constraint_name"), name -> new ArrayList<>())
+                            .add(resultSet.getString("column_name"));
+                }
+            }
+        } catch (SQLException errSql) {
+            rollbackOnSQLException();
+            throw buildSqlException("Error SQL al intentar obtener las claves de la tabla: ", errSql);
+        } finally {
+            currentOperation = previous;
+            releaseLock();
+        }
+        return new ArrayList<>(constraints.values());
+    }
+
+    public long getRowCount(String schemaName, String tableName) throws DatabaseException {
+        acquireLock(DatabaseOperation.COMPARE_TABLES);
+        RunningOperation previous = currentOperation;
+        String query = "SELECT count(*) FROM " + schemaName + "." + tableName;
+        try (Statement statement = track(conexion.createStatement());
+             ResultSet resultSet = statement.executeQuery(query)) {
+            resultSet.next();
+            return resultSet.getLong(1);
+        } catch (SQLException errSql) {
+            rollbackOnSQLException();
+            throw buildSqlException("Error SQL al intentar contar las filas: ", errSql);
+        } finally {
+            currentOperation = previous;
+            releaseLock();
+        }
+    }
+
+    public List<Long> getKeyBoundaries(String schemaName, String tableName, String keyColumn,
+                                       long fromKey, long toKey, long rowsPerChunk) throws DatabaseException {
+        acquireLock(DatabaseOperation.COMPARE_TABLES);
+        RunningOperation previous = currentOperation;
+        List<Long> boundaries = new ArrayList<>();
+        String query = "SELECT k FROM (" +
+                "SELECT t." + keyColumn + " AS k, row_number() OVER (ORDER BY t." + keyColumn + ") AS rn " +
+                "FROM " + schemaName + "." + tableName + " t " +
+                "WHERE t." + keyColumn + " BETWEEN ? AND ?) b " +
+                "WHERE (rn - 1) % ? = 0 ORDER BY k";
+        try (PreparedStatement statement = track(conexion.prepareStatement(query))) {
+            statement.setLong(1, fromKey);
+            statement.setLong(2, toKey);
+            statement.setLong(3, rowsPerChunk);
+            try (ResultSet resultSet = statement.executeQuery()) {
+                while (resultSet.next()) {
+                    boundaries.add(resultSet.getLong(1));
+                }
+            }
+        } catch (SQLException errSql) {
+            rollbackOnSQLException();
+            throw buildSqlException("Error SQL al intentar obtener los límites de los bloques: ", errSql);
+        } finally {
+            currentOperation = previous;
+            releaseLock();
+        }
+        return boundaries;
+    }
+
+    public String getChunkHash(String schemaName, String tableName, String keyColumn, long fromKey, long toKey) throws DatabaseException {
+        acquireLock(DatabaseOperation.COMPARE_TABLES);
+        RunningOperation previous = currentOperation;
+        String query = "SELECT count(*) || ':' || coalesce(md5(string_agg(md5(ROW(t.*)::text), '' ORDER BY t." + keyColumn + ")), '') " +
+                "FROM " + schemaName + "." + tableName + " t " +
+                "WHERE t." + keyColumn + " BETWEEN ? AND ?";
+        try (PreparedStatement statement = track(conexion.prepareStatement(query))) {
+            statement.setLong(1, fromKey);
+            statement.setLong(2, toKey);
+            try (ResultSet resultSet = statement.executeQuery()) {
+                resultSet.next();
+                return resultSet.getString(1);
+            }
+        } catch (SQLException errSql) {
+            rollbackOnSQLException();
+            throw buildSqlException("Error SQL al intentar calcular el hash del bloque: ", errSql);
+        } finally {
+            currentOperation = previous;
+            releaseLock();
+        }
+    }
+
+    public Map<Long, String> getRowHashes(String schemaName, String tableName, String keyColumn, long fromKey, long toKey) throws DatabaseException {
+        acquireLock(DatabaseOperation.COMPARE_TABLES);
+        RunningOperation previous = currentOperation;
+        Map<Long, String> rowHashes = new HashMap<>();
+        String query = "SELECT t." + keyColumn + ", md5(ROW(t.*)::text) FROM " + schemaName + "." + tableName + " t " +
+                "WHERE t." + keyColumn + " BETWEEN ? AND ?";
+        try (PreparedStatement statement = track(conexion.prepareStatement(query))) {
+            statement.setLong(1, fromKey);
+            statement.setLong(2, toKey);
+            try (ResultSet resultSet = statement.executeQuery()) {
+                while (resultSet.next()) {
+                    rowHashes.put(resultSet.getLong(1), resultSet.getString(2));
+                }
+            }
+        } catch (SQLException errSql) {
+            rollbackOnSQLException();
+            throw buildSqlException("Error SQL al intentar obtener los hashes de las filas: ", errSql);
+        } finally {
+            currentOperation = previous;
+            releaseLock();
+        }
+        return rowHashes;
+    }
+
+    public Map<Long, String> getRowsText(String schemaName, String tableName, String keyColumn, List<Long> keys) throws DatabaseException {
+        acquireLock(DatabaseOperation.COMPARE_TABLES);
+        RunningOperation previous = currentOperation;
+        Map<Long, String> rows = new HashMap<>();
+        String query = "SELECT t." + keyColumn + ", ROW(t.*)::text FROM " + schemaName + "." + tableName + " t " +
+                "WHERE t." + keyColumn + " = ANY(?)";
+        try (PreparedStatement statement = track(conexion.prepareStatement(query))) {
+            statement.setArray(1, conexion.createArrayOf("bigint", keys.toArray()));
+            try (ResultSet resultSet = statement.executeQuery()) {
+                while (resultSet.next()) {
+                    rows.put(resultSet.getLong(1), resultSet.getString(2));
+                }
+            }
+        } catch (SQLException errSql) {
+            rollbackOnSQLException();
+            throw buildSqlException("Error SQL al intentar obtener las filas: ", errSql);
+        } finally {
+            currentOperation = previous;
+            releaseLock();
+        }
+        return rows;
+    }
+
     private void rollbackOnSQLException() throws DatabaseException {
         try {
             if (conexion != null) {
@@ -274,4 +686,11 @@ public class DatabaseManager {
             throw new DatabaseException("Error de rollback: " + errRoll.getMessage(), errRoll);
         }
     }
+
+    public interface DatabaseCall<T> {
+        T call() throws DatabaseException;
+    }
+
+    private record RunningOperation(long id, Statement statement) {
+    }
 }
@@ -0,0 +1,15 @@
+package org.example;
+
+public enum DatabaseOperation {
+    GET_SCHEMAS,
+    GET_TABLES,
+    COLUMN_METADATA,
+    KEY_COLUMNS,
+    SELECT_ALL,
+    GET_COLUMN_VALUES,
+    INSERT_RECORD,
+    UPDATE_RECORD,
+    DELETE_RECORD,
+    UPSERT_RECORDS,
+    COMPARE_TABLES
+}
@@ -0,0 +1,56 @@
+package org.example;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+public class KeyGenerator {
+    private final int keyCount;
+    private final double[] cumulative;
+
+    private KeyGenerator(int keyCount, double[] cumulative) {
+        this.keyCount = keyCount;
+        this.cumulative = cumulative;
+    }
+
+    public static KeyGenerator create(String distribution, int keyCount) {
+        if (keyCount <= 0) {
+            throw new IllegalArgumentException("La cantidad de claves debe ser mayor que cero: " + keyCount);
+        }
+        return switch (distribution.toLowerCase()) {
+            case "uniform" -> new KeyGenerator(keyCount, null);
+            case "zipfian" -> new KeyGenerator(keyCount, buildZipfianCdf(keyCount, 0.99));
+            default -> throw new IllegalArgumentException("Distribución de claves no soportada: " + distribution);
+        };
+    }
+
+    private static double[] buildZipfianCdf(int keyCount, double skew) {
+        double[] cdf = new double[keyCount];
+        double sum = 0;
+        for (int i = 0; i < keyCount; i++) {
+            sum += 1.0 / Math.pow(i + 1, skew);
+            cdf[i] = sum;
+        }
+        for (int i = 0; i < keyCount; i++) {
+            cdf[i] /= sum;
+        }
+        return cdf;
+    }
+
+    public int nextKey() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        if (cumulative == null) {
+            return random.nextInt(keyCount) + 1;
+        }
+        double target = random.nextDouble();
+        int low = 0;
+        int high = keyCount - 1;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (cumulative[mid] < target) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low + 1;
+    }
+}
@@ -0,0 +1,64 @@
+package org.example;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+public class LatencyRecorder {
+    private final List<Long> latenciesNanos = new ArrayList<>();
+    private long noRows;
+    private long errors;
+
+    public synchronized void recordSuccess(long nanos) {
+        latenciesNanos.add(nanos);
+    }
+
+    public synchronized void recordNoRows() {
+        noRows++;
+    }
+
+    public synchronized void recordError() {
+        errors++;
+    }
+
+    public synchronized void merge(LatencyRecorder other) {
+        synchronized (other) {
+            latenciesNanos.addAll(other.latenciesNanos);
+            noRows += other.noRows;
+            errors += other.errors;
+        }
+    }
+
+    public synchronized long getSuccessCount() {
+        return latenciesNanos.size();
+    }
+
+    public synchronized long getNoRowsCount() {
+        return noRows;
+    }
+
+    public synchronized long getErrorCount() {
+        return errors;
+    }
+
+    public synchronized double percentileMillis(double percentile) {
+        if (latenciesNanos.isEmpty()) {
+            return 0;
+        }
+        List<Long> sorted = new ArrayList<>(latenciesNanos);
+        Collections.sort(sorted);
+        int index = (int) Math.ceil(percentile / 100.0 * sorted.size()) - 1;
+        index = Math.max(0, Math.min(index, sorted.size() - 1));
+        return sorted.get(index) / 1_000_000.0;
+    }
+
+    public synchronized String summary(String operation, double elapsedSeconds) {
+        long total = latenciesNanos.size() + noRows + errors;
+        double throughput = elapsedSeconds > 0 ? latenciesNanos.size() / elapsedSeconds : 0;
+        double errorRate = total > 0 ? errors * 100.0 / total : 0;
+        return String.format("%-8s ops: %d, ops/s: %.1f, p50: %.2f ms, p95: %.2f ms, p99: %.2f ms, sin filas: %d, errores: %d (%.2f%%)",
+                operation, total, throughput,
+                percentileMillis(50), percentileMillis(95), percentileMillis(99),
+                noRows, errors, errorRate);
+    }
+}
@@ -0,0 +1,273 @@
+package org.example;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+
+public class LoadTest {
+    private static final String SCHEMA_NAME = "loadtest";
+    private static final String TABLE_NAME = "items";
+    private static final List<String> OPERATIONS = List.of("select", "insert", "update", "delete");
+    private static final List<String> CONNECTION_MODES = List.of("shared", "per-worker");
+    private static final int FREE_KEY_INTERVAL = 10;
+
+    private final DatabaseConnection databaseConnection;
+    private final int threads;
+    private final int durationSeconds;
+    private final double readRatio;
+    private final int rows;
+    private final boolean sharedConnection;
+    private final KeyGenerator keyGenerator;
+    private final Queue<Integer> freeKeys = new ConcurrentLinkedQueue<>();
+
+    public LoadTest(DatabaseConnection databaseConnection, int threads, int durationSeconds,
+                    double readRatio, int rows, String distribution, String connectionMode) {
+        if (threads <= 0 || durationSeconds <= 0 || rows <= 0) {
+            throw new IllegalArgumentException("threads, duration y rows deben ser mayores que cero.");
+        }
+        if (readRatio < 0 || readRatio > 1) {
+            throw new IllegalArgumentException("read-ratio debe estar entre 0 y 1: " + readRatio);
+        }
+        if (!CONNECTION_MODES.contains(connectionMode)) {
+            throw new IllegalArgumentException("connection debe ser uno de " + CONNECTION_MODES + ": " + connectionMode);
+        }
+        this.databaseConnection = databaseConnection;
+        this.threads = threads;
+        this.durationSeconds = durationSeconds;
+        this.readRatio = readRatio;
+        this.rows = rows;
+        this.sharedConnection = connectionMode.equals("shared");
+        this.keyGenerator = KeyGenerator.create(distribution, rows);
+    }
+
+    public static void main(String[] args) {
+        try {
+            Map<String, String> options = parseArgs(args);
+            String dbUrl = options.getOrDefault("url", "jdbc:postgresql://localhost/");
+            String user = options.getOrDefault("user", "");
+            String pass = options.getOrDefault("pass", "");
+            DatabaseConnection databaseConnection = DatabaseConnection.create(dbUrl, user, pass);
+            databaseConnection.setQuiet(true);
+            LoadTest loadTest = new LoadTest(
+                    databaseConnection,
+                    Integer.parseInt(options.getOrDefault("threads", "4")),
+                    Integer.parseInt(options.getOrDefault("duration", "30")),
+                    Double.parseDouble(options.getOrDefault("read-ratio", "0.8")),
+                    Integer.parseInt(options.getOrDefault("rows", "500")),
+                    options.getOrDefault("distribution", "uniform"),
+                    options.getOrDefault("connection", "shared"));
+            loadTest.seedTable();
+            loadTest.run();
+        } catch (IllegalArgumentException errIll) {
+            System.out.println("Parámetro inválido: " + errIll.getMessage());
+        } catch (DatabaseException errDb) {
+            System.out.println(errDb.getMessage());
+        }
+    }
+
+    private static Map<String, String> parseArgs(String[] args) {
+        Map<String, String> options = new HashMap<>();
+        for (String arg : args) {
+            if (!arg.startsWith("--") || !arg.contains("=")) {
+                throw new IllegalArgumentException("Formato esperado --clave=valor: " + arg);
+            }
+            int separator = arg.indexOf('=');
+            options.put(arg.substring(2, separator), arg.substring(separator + 1));
+        }
+        return options;
+    }
+
+    public void seedTable() throws DatabaseException {
+        String qualifiedName = SCHEMA_NAME + "." + TABLE_NAME;
+        try (Connection conexion = databaseConnection.getConnection();
+             Statement statement = conexion.createStatement()) {
+            statement.executeUpdate("CREATE SCHEMA IF NOT EXISTS " + SCHEMA_NAME);
+            statement.executeUpdate("DROP TABLE IF EXISTS " + qualifiedName);
+            statement.executeUpdate("CREATE TABLE " + qualifiedName + " (" +
+                    "id integer PRIMARY KEY, " +
+                    "name character varying(64), " +
+                    "active boolean, " +
+                    "created date)");
+            int seeded = statement.executeUpdate("INSERT INTO " + qualifiedName + " " +
+                    "SELECT g, 'item_' || g, g % 2 = 0, current_date - (g % 365) " +
+                    "FROM generate_series(1, " + rows + ") AS g " +
+                    "WHERE g % " + FREE_KEY_INTERVAL + " <> 0");
+            conexion.commit();
+            freeKeys.clear();
+            for (int key = FREE_KEY_INTERVAL; key <= rows; key += FREE_KEY_INTERVAL) {
+                freeKeys.add(key);
+            }
+            System.out.println("Tabla " + qualifiedName + " creada con " + seeded + " fila(s) y "
+                    + freeKeys.size() + " clave(s) libre(s) para inserciones.");
+        } catch (SQLException errSql) {
+            throw new DatabaseException("Error SQL al intentar preparar la tabla de carga: " + errSql.getMessage(), errSql);
+        }
+    }
+
+    public void run() throws DatabaseException {
+        Map<String, LatencyRecorder> totals = newRecorders();
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        Connection sharedConexion = null;
+        try {
+            DatabaseManager sharedDatabase = null;
+            if (sharedConnection) {
+                sharedConexion = databaseConnection.getConnection();
+                sharedDatabase = newDatabaseManager(sharedConexion);
+            }
+            long start = System.nanoTime();
+            long deadline = start + durationSeconds * 1_000_000_000L;
+            List<Future<Map<String, LatencyRecorder>>> futures = new ArrayList<>();
+            for (int i = 0; i < threads; i++) {
+                DatabaseManager database = sharedDatabase;
+                futures.add(executor.submit(() -> runWorker(database, deadline)));
+            }
+            for (Future<Map<String, LatencyRecorder>> future : futures) {
+                Map<String, LatencyRecorder> workerResult = future.get();
+                for (String operation : OPERATIONS) {
+                    totals.get(operation).merge(workerResult.get(operation));
+                }
+            }
+            double elapsedSeconds = (System.nanoTime() - start) / 1_000_000_000.0;
+            printReport(totals, elapsedSeconds);
+        } catch (InterruptedException errInt) {
+            Thread.currentThread().interrupt();
+            throw new DatabaseException("Prueba de carga interrumpida.", errInt);
+        } catch (Exception errExe) {
+            throw new DatabaseException("Error al ejecutar la prueba de carga: " + errExe.getMessage(), errExe);
+        } finally {
+            executor.shutdownNow();
+            closeQuietly(sharedConexion);
+        }
+    }
+
+    private Map<String, LatencyRecorder> runWorker(DatabaseManager sharedDatabase, long deadline) throws SQLException {
+        if (sharedDatabase != null) {
+            return runOperations(sharedDatabase, deadline);
+        }
+        try (Connection conexion = databaseConnection.getConnection()) {
+            return runOperations(newDatabaseManager(conexion), deadline);
+        }
+    }
+
+    private Map<String, LatencyRecorder> runOperations(DatabaseManager database, long deadline) {
+        Map<String, LatencyRecorder> recorders = newRecorders();
+        while (System.nanoTime() < deadline) {
+            String operation = nextOperation();
+            LatencyRecorder recorder = recorders.get(operation);
+            long begin = System.nanoTime();
+            try {
+                int rowsAffected = executeOperation(database, operation);
+                if (rowsAffected > 0) {
+                    recorder.recordSuccess(System.nanoTime() - begin);
+                } else {
+                    recorder.recordNoRows();
+                }
+            } catch (DatabaseException errDb) {
+                recorder.recordError();
+            }
+        }
+        return recorders;
+    }
+
+    private DatabaseManager newDatabaseManager(Connection conexion) {
+        DatabaseManager database = new DatabaseManager(conexion);
+        database.setQuiet(true);
+        return database;
+    }
+
+    private String nextOperation() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        if (random.nextDouble() < readRatio) {
+            return "select";
+        }
+        return OPERATIONS.get(1 + random.nextInt(OPERATIONS.size() - 1));
+    }
+
+    private int executeOperation(DatabaseManager database, String operation) throws DatabaseException {
+        switch (operation) {
+            case "select" -> {
+                database.selectAll(SCHEMA_NAME, TABLE_NAME);
+                return 1;
+            }
+            case "insert" -> {
+                Integer key = freeKeys.poll();
+                if (key == null) {
+                    return 0;
+                }
+                Record record = new Record();
+                record.addColumnValue("id", String.valueOf(key), "integer");
+                record.addColumnValue("name", "item_" + key, "character varying");
+                record.addColumnValue("active", "true", "boolean");
+                record.addColumnValue("created", LocalDate.now().toString(), "date");
+                try {
+                    return database.insertRecord(SCHEMA_NAME, TABLE_NAME, record);
+                } catch (DatabaseException errDb) {
+                    freeKeys.add(key);
+                    throw errDb;
+                }
+            }
+            case "update" -> {
+                return database.updateRecord(SCHEMA_NAME, TABLE_NAME, "name",
+                        "upd_" + System.nanoTime(), keyRecord(keyGenerator.nextKey()));
+            }
+            case "delete" -> {
+                int key = keyGenerator.nextKey();
+                int rowsAffected = database.deleteRecord(SCHEMA_NAME, TABLE_NAME, keyRecord(key));
+                if (rowsAffected > 0) {
+                    freeKeys.add(key);
+                }
+                return rowsAffected;
+            }
+            default -> throw new IllegalArgumentException("Operación no soportada: " + operation);
+        }
+    }
+
+    private Record keyRecord(int key) {
+        Record whereRecord = new Record();
+        whereRecord.addColumnValue("id", String.valueOf(key), "integer");
+        return whereRecord;
+    }
+
+    private Map<String, LatencyRecorder> newRecorders() {
+        Map<String, LatencyRecorder> recorders = new LinkedHashMap<>();
+        for (String operation : OPERATIONS) {
+            recorders.put(operation, new LatencyRecorder());
+        }
+        return recorders;
+    }
+
+    private void closeQuietly(Connection conexion) {
+        if (conexion == null) {
+            return;
+        }
+        try {
+            conexion.close();
+        } catch (SQLException errSql) {
+            System.out.println("Error al cerrar la conexión: " + errSql.getMessage());
+        }
+    }
+
+    private void printReport(Map<String, LatencyRecorder> totals, double elapsedSeconds) {
+        LatencyRecorder overall = new LatencyRecorder();
+        List<String> lines = new ArrayList<>();
+        for (Map.Entry<String, LatencyRecorder> entry : totals.entrySet()) {
+            lines.add(entry.getValue().summary(entry.getKey(), elapsedSeconds));
+            overall.merge(entry.getValue());
+        }
+        lines.add(overall.summary("total", elapsedSeconds));
+        ConsoleUtils.printMarkedTable(String.format("Resultados (%d hilos, conexión %s, %.1f s, lectura %.0f%%)",
+                threads, sharedConnection ? "compartida" : "por hilo", elapsedSeconds, readRatio * 100), lines, "*");
+    }
+}
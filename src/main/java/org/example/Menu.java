@@ -1,10 +1,27 @@
 package org.example;
 
+import java.io.IOException;
+import java.sql.Connection;
+import java.sql.SQLException;
 import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 
 public class Menu {
+    private static final long CANCEL_POLL_MILLIS = 500;
+
     private final DatabaseManager database;
+    private final ExecutorService queryExecutor = Executors.newSingleThreadExecutor(task -> {
+        Thread thread = new Thread(task, "menu-query");
+        thread.setDaemon(true);
+        return thread;
+    });
 
     public Menu(DatabaseManager database) {
         this.database = database;
@@ -15,7 +32,7 @@ public class Menu {
     }
 
     public void showSchemasMenu() {
-        List<String> schemaNames = getSchemaNames();
+        List<String> schemaNames = getSchemaNames(database);
         if(schemaNames == null){
             return;
         }
@@ -29,7 +46,7 @@ public class Menu {
     }
 
     public void showTablesMenu(String schemaName) {
-        List<String> tablesNames = getTablesNames(schemaName);
+        List<String> tablesNames = getTablesNames(database, schemaName);
         if(tablesNames == null){
             return;
         }
@@ -51,7 +68,7 @@ public class Menu {
         do {
             option = showTableOptionsMenu();
             executeOption(option, schemaName, tableSelected, columnNames);
-        } while (option != 5);
+        } while (option != 6);
     }
 
     private void executeOption(int option, String schemaName, String tableSelected, List<String> columnNames) {
@@ -60,7 +77,8 @@ public class Menu {
             case 2 -> handleUpdateRecord(schemaName, tableSelected, columnNames);
             case 3 -> handleDeleteRecord(schemaName, tableSelected, columnNames);
             case 4 -> handleAddNewRecord(schemaName, tableSelected, columnNames);
-            case 5 -> System.out.println("Saliendo de la aplicación...");
+            case 5 -> handleCompareTable(schemaName, tableSelected);
+            case 6 -> System.out.println("Saliendo de la aplicación...");
             default -> System.out.println("Opción inválida");
         }
     }
@@ -89,6 +107,63 @@ public class Menu {
         updateRecord(schemaName, tableName, columnNameForNewValue, newValue, whereRecord);
     }
 
+    private void handleCompareTable(String schemaName, String tableName) {
+        String otherDatabase = ConsoleUtils.getStringInput("¿Comparar con una tabla de otra base de datos? (s/n): ");
+        if (!otherDatabase.equalsIgnoreCase("s")) {
+            compareWithTarget(schemaName, tableName, database);
+            return;
+        }
+        String dbUrl = ConsoleUtils.getStringInput("Ingrese la URL JDBC de la base de datos a comparar: ");
+        String user = ConsoleUtils.getStringInput("Ingrese el usuario: ");
+        String pass = ConsoleUtils.getPasswordInput("Ingrese la contraseña: ");
+        try (Connection targetConnection = DatabaseConnection.create(dbUrl, user, pass).getConnection()) {
+            compareWithTarget(schemaName, tableName, new DatabaseManager(targetConnection));
+        } catch (SQLException errCon) {
+            System.out.println("Error de conexión con la base de datos a comparar: " + errCon.getMessage());
+        }
+    }
+
+    private void compareWithTarget(String schemaName, String tableName, DatabaseManager targetDatabase) {
+        List<String> schemaNames = getSchemaNames(targetDatabase);
+        if (schemaNames == null) {
+            return;
+        }
+        ConsoleUtils.printNumberedTable("Esquemas disponibles para comparar: ", schemaNames);
+        int schemaIndex = askSchemaIndex(schemaNames);
+        if (schemaIndex == -1) {
+            return;
+        }
+        String targetSchema = schemaNames.get(schemaIndex);
+        List<String> tableNames = getTablesNames(targetDatabase, targetSchema);
+        if (tableNames == null) {
+            return;
+        }
+        ConsoleUtils.printNumberedTable("Tablas disponibles para comparar: ", tableNames);
+        int tableIndex = askTableIndex(tableNames);
+        if (tableIndex == -1) {
+            return;
+        }
+        String targetTable = tableNames.get(tableIndex);
+        TableComparison comparison = compareTables(targetDatabase, schemaName, tableName, targetSchema, targetTable);
+        if (comparison == null) {
+            return;
+        }
+        System.out.println("Bloques comparados: " + comparison.getChunksHashed());
+        if (comparison.isEqual()) {
+            System.out.println("Las tablas son idénticas.");
+            return;
+        }
+        if (!comparison.getMissingInTarget().isEmpty()) {
+            ConsoleUtils.printMarkedTable("Filas solo en " + schemaName + "." + tableName, comparison.getMissingInTarget(), "-");
+        }
+        if (!comparison.getMissingInSource().isEmpty()) {
+            ConsoleUtils.printMarkedTable("Filas solo en " + targetSchema + "." + targetTable, comparison.getMissingInSource(), "+");
+        }
+        if (!comparison.getChangedRows().isEmpty()) {
+            ConsoleUtils.printMarkedTable("Filas modificadas", comparison.getChangedRows(), "~");
+        }
+    }
+
     private void handleDeleteRecord(String schemaName, String tableName, List<String> columnNames) {
         String whereColumn = getColumnName(tableName, columnNames, "filtrar y eliminar (WHERE/DELETE)");
         String whereValue = getWhereValue(schemaName, tableName, whereColumn);
@@ -180,6 +255,17 @@ public class Menu {
         }
     }
 
+    private TableComparison compareTables(DatabaseManager targetDatabase, String sourceSchema, String sourceTable,
+                                          String targetSchema, String targetTable) {
+        try {
+            return runCancellable(() -> new TableComparator(database, targetDatabase)
+                    .compare(sourceSchema, sourceTable, targetSchema, targetTable), targetDatabase);
+        } catch (DatabaseException e) {
+            System.out.println(e.getMessage());
+            return null;
+        }
+    }
+
     private List<String> getColumnNames(String schemaName, String tableSelected) {
         try {
             return database.getColumnsNames(schemaName, tableSelected);
@@ -191,13 +277,65 @@ public class Menu {
 
     private List<Record> getAllRecords(String schemaName, String tableName) {
         try {
-            return database.selectAll(schemaName, tableName);
+            return runCancellable(() -> database.selectAll(schemaName, tableName));
         } catch (DatabaseException e) {
             System.out.println(e.getMessage());
             return null;
         }
     }
 
+    private <T> T runCancellable(Callable<T> query) throws DatabaseException {
+        return runCancellable(query, database);
+    }
+
+    private <T> T runCancellable(Callable<T> query, DatabaseManager otherDatabase) throws DatabaseException {
+        Future<T> future = queryExecutor.submit(query);
+        boolean hintShown = false;
+        try {
+            while (true) {
+                try {
+                    return future.get(CANCEL_POLL_MILLIS, TimeUnit.MILLISECONDS);
+                } catch (TimeoutException errTime) {
+                    if (!hintShown) {
+                        System.out.println("Consulta en curso. Presione Enter para cancelarla...");
+                        hintShown = true;
+                    } else if (cancelRequested() && cancelQueries(otherDatabase)) {
+                        System.out.println("Cancelando la consulta...");
+                    }
+                }
+            }
+        } catch (ExecutionException errExe) {
+            if (errExe.getCause() instanceof DatabaseException errDb) {
+                throw errDb;
+            }
+            throw new DatabaseException("Error al ejecutar la consulta: " + errExe.getCause().getMessage(), errExe.getCause());
+        } catch (InterruptedException errInt) {
+            cancelQueries(otherDatabase);
+            Thread.currentThread().interrupt();
+            throw new DatabaseException("La consulta fue interrumpida.", errInt);
+        }
+    }
+
+    private boolean cancelQueries(DatabaseManager otherDatabase) throws DatabaseException {
+        boolean cancelled = database.cancelCurrentQuery();
+        if (otherDatabase != database) {
+            cancelled |= otherDatabase.cancelCurrentQuery();
+        }
+        return cancelled;
+    }
+
+    private boolean cancelRequested() {
+        try {
+            boolean requested = false;
+            while (System.in.available() > 0) {
+                requested |= System.in.read() == '\n';
+            }
+            return requested;
+        } catch (IOException errIo) {
+            return false;
+        }
+    }
+
     private String getColumnType(String schemaName, String tableName, String columnName){
         try {
             return database.getColumnType(schemaName, tableName, columnName);
@@ -209,13 +347,14 @@ public class Menu {
 
     private List<String> getValuesNames(String schemaName, String tableName, String columnName){
         try {
-            return database.getColumnValues(schemaName, tableName, columnName);
+            return runCancellable(() -> database.getColumnValues(schemaName, tableName, columnName));
         } catch (DatabaseException e) {
+            System.out.println(e.getMessage());
             return null;
         }
     }
 
-    private List<String> getSchemaNames() {
+    private List<String> getSchemaNames(DatabaseManager database) {
         try {
             return database.getSchemas();
         } catch (DatabaseException e) {
@@ -224,7 +363,7 @@ public class Menu {
         }
     }
 
-    private List<String> getTablesNames(String schemaName) {
+    private List<String> getTablesNames(DatabaseManager database, String schemaName) {
         try {
             return database.getTables(schemaName);
         } catch (DatabaseException e) {
@@ -269,6 +408,7 @@ public class Menu {
                 "Modificar un registro",
                 "Eliminar un registro",
                 "Agregar un registro",
+                "Comparar con otra tabla",
                 "Salir"
         );
         ConsoleUtils.printNumberedTable("Opciones disponibles", options);
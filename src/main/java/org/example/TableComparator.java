@@ -0,0 +1,161 @@
+package org.example;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+public class TableComparator {
+    private static final List<String> SUPPORTED_KEY_TYPES = List.of("smallint", "integer", "bigint");
+
+    private final DatabaseManager source;
+    private final DatabaseManager target;
+    private final long chunkRows;
+    private final long leafRows;
+    private final int fanout;
+
+    public TableComparator(DatabaseManager source, DatabaseManager target) {
+        this(source, target, 100_000, 1_000, 16);
+    }
+
+    public TableComparator(DatabaseManager source, DatabaseManager target, long chunkRows, long leafRows, int fanout) {
+        if (chunkRows <= 0 || leafRows <= 0 || fanout < 2) {
+            throw new IllegalArgumentException("chunkRows y leafRows deben ser positivos y fanout al menos 2.");
+        }
+        this.source = source;
+        this.target = target;
+        this.chunkRows = chunkRows;
+        this.leafRows = leafRows;
+        this.fanout = fanout;
+    }
+
+    public TableComparison compare(String sourceSchema, String sourceTable,
+                                   String targetSchema, String targetTable) throws DatabaseException {
+        return source.runInOperation(DatabaseOperation.COMPARE_TABLES, () ->
+                target.runInOperation(DatabaseOperation.COMPARE_TABLES, () ->
+                        compareTables(sourceSchema, sourceTable, targetSchema, targetTable)));
+    }
+
+    private TableComparison compareTables(String sourceSchema, String sourceTable,
+                                          String targetSchema, String targetTable) throws DatabaseException {
+        String keyColumn = getKeyColumn(source, sourceSchema, sourceTable);
+        String targetKeyColumn = getKeyColumn(target, targetSchema, targetTable);
+        if (!keyColumn.equals(targetKeyColumn)) {
+            throw new DatabaseException("Las claves primarias no coinciden: '" + keyColumn + "' en " + sourceSchema + "." + sourceTable
+                    + " y '" + targetKeyColumn + "' en " + targetSchema + "." + targetTable + ".");
+        }
+        TableComparison comparison = new TableComparison();
+        Side sourceSide = new Side(source, sourceSchema, sourceTable, keyColumn);
+        Side targetSide = new Side(target, targetSchema, targetTable, keyColumn);
+
+        long sourceCount = source.getRowCount(sourceSchema, sourceTable);
+        long targetCount = target.getRowCount(targetSchema, targetTable);
+        if (sourceCount == 0 && targetCount == 0) {
+            return comparison;
+        }
+        Side largerSide = sourceCount >= targetCount ? sourceSide : targetSide;
+        splitAndCompare(sourceSide, targetSide, largerSide, Long.MIN_VALUE, Long.MAX_VALUE, chunkRows, comparison);
+        return comparison;
+    }
+
+    private String getKeyColumn(DatabaseManager database, String schemaName, String tableName) throws DatabaseException {
+        List<String> keyColumns = database.getPrimaryKeyColumns(schemaName, tableName);
+        if (keyColumns.size() != 1) {
+            throw new DatabaseException("La tabla '" + tableName + "' debe tener una clave primaria de una sola columna para compararse.");
+        }
+        String keyColumn = keyColumns.get(0);
+        String keyType = database.getColumnType(schemaName, tableName, keyColumn);
+        if (!SUPPORTED_KEY_TYPES.contains(keyType.toLowerCase())) {
+            throw new DatabaseException("Tipo de clave primaria no soportado para comparar: " + keyType);
+        }
+        return keyColumn;
+    }
+
+    private void splitAndCompare(Side sourceSide, Side targetSide, Side boundarySide, long from, long to,
+                                 long rowsPerChunk, TableComparison comparison) throws DatabaseException {
+        List<Long> boundaries = boundarySide.boundaries(from, to, rowsPerChunk);
+        long chunkFrom = from;
+        for (int i = 1; i < boundaries.size(); i++) {
+            compareRange(sourceSide, targetSide, chunkFrom, boundaries.get(i) - 1, comparison);
+            chunkFrom = boundaries.get(i);
+        }
+        compareRange(sourceSide, targetSide, chunkFrom, to, comparison);
+    }
+
+    private void compareRange(Side sourceSide, Side targetSide, long from, long to, TableComparison comparison) throws DatabaseException {
+        comparison.incrementChunksHashed();
+        String sourceHash = sourceSide.chunkHash(from, to);
+        String targetHash = targetSide.chunkHash(from, to);
+        if (sourceHash.equals(targetHash)) {
+            return;
+        }
+        long sourceCount = rowCount(sourceHash);
+        long targetCount = rowCount(targetHash);
+        long maxCount = Math.max(sourceCount, targetCount);
+        if (maxCount <= leafRows) {
+            compareRows(sourceSide, targetSide, from, to, comparison);
+            return;
+        }
+        Side largerSide = sourceCount >= targetCount ? sourceSide : targetSide;
+        long rowsPerChunk = (maxCount + fanout - 1) / fanout;
+        splitAndCompare(sourceSide, targetSide, largerSide, from, to, rowsPerChunk, comparison);
+    }
+
+    private void compareRows(Side sourceSide, Side targetSide, long from, long to, TableComparison comparison) throws DatabaseException {
+        Map<Long, String> sourceHashes = sourceSide.rowHashes(from, to);
+        Map<Long, String> targetHashes = targetSide.rowHashes(from, to);
+        List<Long> onlySource = new ArrayList<>();
+        List<Long> onlyTarget = new ArrayList<>();
+        List<Long> changed = new ArrayList<>();
+        for (Map.Entry<Long, String> entry : sourceHashes.entrySet()) {
+            String targetHash = targetHashes.get(entry.getKey());
+            if (targetHash == null) {
+                onlySource.add(entry.getKey());
+            } else if (!targetHash.equals(entry.getValue())) {
+                changed.add(entry.getKey());
+            }
+        }
+        for (Long key : targetHashes.keySet()) {
+            if (!sourceHashes.containsKey(key)) {
+                onlyTarget.add(key);
+            }
+        }
+
+        Set<Long> sourceKeys = new HashSet<>(onlySource);
+        sourceKeys.addAll(changed);
+        Set<Long> targetKeys = new HashSet<>(onlyTarget);
+        targetKeys.addAll(changed);
+        Map<Long, String> sourceRows = sourceSide.rows(new ArrayList<>(sourceKeys));
+        Map<Long, String> targetRows = targetSide.rows(new ArrayList<>(targetKeys));
+
+        onlySource.stream().sorted().forEach(key -> comparison.addMissingInTarget(sourceRows.get(key)));
+        onlyTarget.stream().sorted().forEach(key -> comparison.addMissingInSource(targetRows.get(key)));
+        changed.stream().sorted().forEach(key -> comparison.addChangedRow(sourceRows.get(key), targetRows.get(key)));
+    }
+
+    private static long rowCount(String chunkHash) {
+        return Long.parseLong(chunkHash.substring(0, chunkHash.indexOf(':')));
+    }
+
+    private record Side(DatabaseManager database, String schemaName, String tableName, String keyColumn) {
+        List<Long> boundaries(long from, long to, long rowsPerChunk) throws DatabaseException {
+            return database.getKeyBoundaries(schemaName, tableName, keyColumn, from, to, rowsPerChunk);
+        }
+
+        String chunkHash(long from, long to) throws DatabaseException {
+            return database.getChunkHash(schemaName, tableName, keyColumn, from, to);
+        }
+
+        Map<Long, String> rowHashes(long from, long to) throws DatabaseException {
+            return database.getRowHashes(schemaName, tableName, keyColumn, from, to);
+        }
+
+        Map<Long, String> rows(List<Long> keys) throws DatabaseException {
+            if (keys.isEmpty()) {
+                return Map.of();
+            }
+            return database.getRowsText(schemaName, tableName, keyColumn, keys);
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package org.example;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class TableComparison {
+    private final List<String> missingInTarget = new ArrayList<>();
+    private final List<String> missingInSource = new ArrayList<>();
+    private final List<String> changedRows = new ArrayList<>();
+    private int chunksHashed;
+
+    public void addMissingInTarget(String row) {
+        missingInTarget.add(row);
+    }
+
+    public void addMissingInSource(String row) {
+        missingInSource.add(row);
+    }
+
+    public void addChangedRow(String sourceRow, String targetRow) {
+        changedRows.add(sourceRow + " -> " + targetRow);
+    }
+
+    public void incrementChunksHashed() {
+        chunksHashed++;
+    }
+
+    public List<String> getMissingInTarget() {
+        return missingInTarget;
+    }
+
+    public List<String> getMissingInSource() {
+        return missingInSource;
+    }
+
+    public List<String> getChangedRows() {
+        return changedRows;
+    }
+
+    public int getChunksHashed() {
+        return chunksHashed;
+    }
+
+    public boolean isEqual() {
+        return missingInTarget.isEmpty() && missingInSource.isEmpty() && changedRows.isEmpty();
+    }
+}
@@ -0,0 +1,36 @@
+package org.example;
+
+public class UpsertResult {
+    private int inserted;
+    private int updated;
+    private int skipped;
+
+    public void addInserted() {
+        inserted++;
+    }
+
+    public void addUpdated() {
+        updated++;
+    }
+
+    public void setSkipped(int skipped) {
+        this.skipped = skipped;
+    }
+
+    public int getInserted() {
+        return inserted;
+    }
+
+    public int getUpdated() {
+        return updated;
+    }
+
+    public int getSkipped() {
+        return skipped;
+    }
+
+    @Override
+    public String toString() {
+        return inserted + " fila(s) insertada(s), " + updated + " fila(s) actualizada(s), " + skipped + " fila(s) sin cambios";
+    }
+}